@@ -0,0 +1,105 @@
+#!/usr/bin/env bash
+# Compares the plain jar with the fast-startup artifact (AOT + CDS).
+# For each run, measures the time until the first successful GET /projects
+# and the resident memory of the JVM at that point. Both artifacts run with
+# the fast-startup Spring profile, so only AOT and CDS differ between them.
+#
+# Linux only (GNU date). Needs a MySQL reachable with the default
+# datasource settings, e.g.
+#   docker run --name mysql_container -e MYSQL_ROOT_PASSWORD=my-secret-pw -p 3306:3306 -d mysql:9.5.0
+#
+# Usage: scripts/startup-benchmark.sh [runs]   (default: 5)
+# Env:   BENCH_PORT (default 18080), BENCH_DIR (default: a temp directory),
+#        MVN_ARGS (extra Maven arguments, e.g. -Djava.version=17)
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${BENCH_PORT:-18080}"
+BENCH_DIR="${BENCH_DIR:-$(mktemp -d)}"
+TIMEOUT_SECONDS=120
+MVN_ARGS="${MVN_ARGS:-}"
+
+cd "$(dirname "$0")/.."
+
+build() {
+    echo "Building plain jar..."
+    ./mvnw -q -B clean package -DskipTests $MVN_ARGS
+    mkdir -p "$BENCH_DIR/plain"
+    cp target/SVGboard-*.jar "$BENCH_DIR/plain/app.jar"
+
+    echo "Building fast-startup jar and CDS archive..."
+    ./mvnw -q -B clean package -Pfast-startup -DskipTests $MVN_ARGS
+    rm -rf "$BENCH_DIR/fast"
+    mkdir -p "$BENCH_DIR/fast"
+    java -Djarmode=tools -jar target/SVGboard-*.jar extract --destination "$BENCH_DIR/fast"
+    mv "$BENCH_DIR"/fast/SVGboard-*.jar "$BENCH_DIR/fast/app.jar"
+    # Training run with AOT on, as measured below
+    SPRING_PROFILES_ACTIVE=fast-startup java \
+        -XX:ArchiveClassesAtExit="$BENCH_DIR/fast/application.jsa" \
+        -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+        -jar "$BENCH_DIR/fast/app.jar" > "$BENCH_DIR/fast/training.log" 2>&1
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+# Prints "<ms to first GET /projects> <rss in KB>"
+measure() {
+    local start pid rss elapsed
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > "$BENCH_DIR/run.log" 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null "http://localhost:$PORT/projects"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited, see $BENCH_DIR/run.log" >&2
+            exit 1
+        fi
+        if (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+            kill "$pid"
+            echo "Timed out waiting for GET /projects, see $BENCH_DIR/run.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+bench() {
+    local name=$1
+    shift
+    local times=() rss=() result
+    for ((i = 1; i <= RUNS; i++)); do
+        result=$(measure "$@")
+        times+=("${result% *}")
+        rss+=("${result#* }")
+        echo "  $name run $i: ${result% *} ms, ${result#* } KB"
+    done
+    printf '%-14s median %6s ms  %8s KB\n' "$name" \
+        "$(printf '%s\n' "${times[@]}" | median)" \
+        "$(printf '%s\n' "${rss[@]}" | median)" >> "$BENCH_DIR/summary.txt"
+}
+
+build
+: > "$BENCH_DIR/summary.txt"
+
+bench plain env SPRING_PROFILES_ACTIVE=fast-startup java -jar "$BENCH_DIR/plain/app.jar"
+bench fast-startup env SPRING_PROFILES_ACTIVE=fast-startup java \
+    -XX:SharedArchiveFile="$BENCH_DIR/fast/application.jsa" \
+    -Dspring.aot.enabled=true \
+    -jar "$BENCH_DIR/fast/app.jar"
+
+echo
+echo "Time to first GET /projects and resident memory over $RUNS runs:"
+cat "$BENCH_DIR/summary.txt"
@@ -0,0 +1,26 @@
+package com.merwanel.SVGboard.config;
+
+import com.merwanel.SVGboard.service.SnapshotAdmissionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+@RequiredArgsConstructor
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlProperties properties;
+    private final SnapshotAdmissionService snapshotAdmissionService;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.enabled()) {
+            return;
+        }
+        registry.addInterceptor(new SnapshotAdmissionInterceptor(snapshotAdmissionService))
+                .addPathPatterns("/projects/*/snapshots");
+    }
+}
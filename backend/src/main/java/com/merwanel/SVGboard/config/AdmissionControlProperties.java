@@ -0,0 +1,31 @@
+package com.merwanel.SVGboard.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Limits applied to {@code POST /projects/{projectId}/snapshots}.
+ * The concurrent writes limit should stay below the Hikari pool size
+ * so that reads still get a connection during an autosave flood.
+ */
+@ConfigurationProperties(prefix = "svgboard.admission")
+@Validated
+public record AdmissionControlProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue @Valid Bucket project,
+    @DefaultValue @Valid Bucket client,
+    @DefaultValue("8") @Positive int maxConcurrentWrites,
+    @DefaultValue("500ms") Duration queueTimeout,
+    @DefaultValue("PT1M") Duration bucketSweepInterval
+) {
+
+    public record Bucket(
+        @DefaultValue("5") @Positive int capacity,
+        @DefaultValue("1") @Positive double refillPerSecond
+    ) {}
+}
@@ -0,0 +1,65 @@
+package com.merwanel.SVGboard.config;
+
+import com.merwanel.SVGboard.service.SnapshotAdmissionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Rejects snapshot creation with 429 and a {@code Retry-After} header when
+ * the project or the client is over its rate, or when too many writes are in flight.
+ */
+@RequiredArgsConstructor
+class SnapshotAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED_ATTRIBUTE = SnapshotAdmissionInterceptor.class.getName() + ".admitted";
+
+    private final SnapshotAdmissionService snapshotAdmissionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        Long projectId = projectId(request);
+        if (projectId == null) {
+            return true;
+        }
+
+        SnapshotAdmissionService.Decision decision = snapshotAdmissionService.admit(projectId, request.getRemoteAddr());
+        if (!decision.admitted()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            return false;
+        }
+        request.setAttribute(ADMITTED_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ADMITTED_ATTRIBUTE) != null) {
+            snapshotAdmissionService.release();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long projectId(HttpServletRequest request) {
+        var variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get("projectId") == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(variables.get("projectId"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
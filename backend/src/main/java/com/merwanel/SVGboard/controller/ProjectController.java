@@ -2,11 +2,14 @@ package com.merwanel.SVGboard.controller;
 
 import com.merwanel.SVGboard.dto.ProjectRequest;
 import com.merwanel.SVGboard.dto.ProjectResponse;
+import com.merwanel.SVGboard.dto.ProjectSearchResponse;
 import com.merwanel.SVGboard.dto.ProjectWithSnapshotsResponse;
+import com.merwanel.SVGboard.service.ProjectSearchIndex;
 import com.merwanel.SVGboard.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -22,6 +25,21 @@ public class ProjectController {
         return projectService.getAllProjects();
     }
     
+    @GetMapping("/search")
+    public ProjectSearchResponse searchProjects(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "relevance") String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ProjectSearchIndex.SortOrder order = switch (sort) {
+            case "relevance" -> ProjectSearchIndex.SortOrder.RELEVANCE;
+            case "updatedAt" -> ProjectSearchIndex.SortOrder.UPDATED_AT;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unknown sort '" + sort + "', expected 'relevance' or 'updatedAt'");
+        };
+        return projectService.searchProjects(q, order, page, size);
+    }
+    
     @GetMapping("/latest")
     public ProjectWithSnapshotsResponse getLatestProject() {
         return projectService.getLatestProjectWithSnapshots();
@@ -0,0 +1,11 @@
+package com.merwanel.SVGboard.dto;
+
+import java.util.List;
+
+public record ProjectSearchResponse(
+    List<ProjectResponse> content,
+    int page,
+    int size,
+    long totalElements,
+    int totalPages
+) {}
@@ -1,8 +1,12 @@
 package com.merwanel.SVGboard.repository;
 
 import com.merwanel.SVGboard.entity.Project;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +15,9 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     Optional<Project> findFirstByOrderByCreatedAtDesc();
     Optional<Project> findFirstByOrderByUpdatedAtDesc();
     List<Project> findAllByOrderByUpdatedAtDesc();
+    List<Project> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+    Slice<Project> findAllBy(Pageable pageable);
+    
+    @Query("select p.id from Project p")
+    List<Long> findAllIds();
 }
\ No newline at end of file
@@ -0,0 +1,335 @@
+package com.merwanel.SVGboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merwanel.SVGboard.entity.Project;
+import com.merwanel.SVGboard.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over project titles and the shape metadata
+ * (shape types, fill colors, animation types) found in {@code lastShapesData}.
+ * Built once at startup, then kept up to date by the services after each commit
+ * and by a periodic refresh for the writes handled by other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectSearchIndex {
+
+    public enum SortOrder { RELEVANCE, UPDATED_AT }
+
+    public record Page(List<Long> ids, long totalElements) {}
+
+    private record Entry(Long id, LocalDateTime updatedAt, Map<String, Integer> terms) {}
+
+    private record Hit(Long id, LocalDateTime updatedAt, int score) {}
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int METADATA_WEIGHT = 1;
+    private static final Set<String> METADATA_FIELDS = Set.of("type", "fill");
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(5);
+    private static final long FIRST_BUILD_TIMEOUT_SECONDS = 30;
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CountDownLatch built = new CountDownLatch(1);
+    private volatile LocalDateTime lastSeen;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Set<Long> existingIds = new HashSet<>();
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id"));
+        Slice<Project> slice;
+        do {
+            slice = projectRepository.findAllBy(pageable);
+            slice.forEach(project -> existingIds.add(project.getId()));
+            merge(slice.getContent());
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+        removeMissing(existingIds, startedAt);
+        built.countDown();
+    }
+
+    /**
+     * Catches up with writes made by other instances: re-reads the recently
+     * updated projects and drops the ones deleted since the last pass.
+     */
+    @Scheduled(initialDelayString = "${svgboard.search.refresh-interval:PT30S}",
+            fixedDelayString = "${svgboard.search.refresh-interval:PT30S}")
+    public synchronized void refresh() {
+        if (lastSeen == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        merge(projectRepository.findByUpdatedAtGreaterThanEqual(lastSeen.minus(REFRESH_OVERLAP)));
+        removeMissing(new HashSet<>(projectRepository.findAllIds()), startedAt);
+    }
+
+    /**
+     * Merges rows read from the database without overwriting an entry indexed
+     * after commit with a later timestamp. MySQL rounds TIMESTAMP values to the
+     * second, so a stored value can be up to one second later than the entity
+     * it came from: timestamps are compared to the second and a tie goes to the
+     * row. If that row was stale, the next refresh reads the row again, since
+     * REFRESH_OVERLAP is wider than the rounding, and replaces it.
+     */
+    private void merge(List<Project> projects) {
+        List<Entry> loaded = projects.stream().map(this::toEntry).toList();
+        lock.writeLock().lock();
+        try {
+            for (Entry entry : loaded) {
+                Entry current = entries.get(entry.id());
+                if (current == null || !isAfter(current.updatedAt(), entry.updatedAt())) {
+                    remove(entry.id());
+                    put(entry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        loaded.stream()
+                .map(Entry::updatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .filter(max -> lastSeen == null || max.isAfter(lastSeen))
+                .ifPresent(max -> lastSeen = max);
+    }
+
+    /**
+     * Drops the entries whose project no longer exists, leaving alone the ones
+     * indexed after {@code startedAt}, which the id list may not include yet.
+     */
+    private void removeMissing(Set<Long> existingIds, LocalDateTime startedAt) {
+        lock.writeLock().lock();
+        try {
+            List<Long> deleted = entries.values().stream()
+                    .filter(e -> !existingIds.contains(e.id()))
+                    .filter(e -> e.updatedAt() == null || e.updatedAt().isBefore(startedAt))
+                    .map(Entry::id)
+                    .toList();
+            deleted.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (lastSeen == null) {
+            lastSeen = startedAt;
+        }
+    }
+
+    private static boolean isAfter(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a != null;
+        }
+        return a.truncatedTo(ChronoUnit.SECONDS).isAfter(b.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    public void index(Project project) {
+        afterCommit(() -> {
+            Entry entry = toEntry(project);
+            lock.writeLock().lock();
+            try {
+                remove(entry.id());
+                put(entry);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void delete(Long projectId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(projectId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Returns the ids of the requested page, every query term having to match
+     * a title or metadata token (prefix match, exact matches score higher).
+     * A blank query matches every project.
+     */
+    public Page search(String query, SortOrder sort, int page, int size) {
+        awaitFirstBuild();
+        List<String> queryTerms = new ArrayList<>(tokenize(query));
+        List<Hit> hits;
+        lock.readLock().lock();
+        try {
+            hits = queryTerms.isEmpty() ? matchAll() : match(queryTerms);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Hit> byUpdatedAt = Comparator.comparing(Hit::updatedAt,
+                Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(Hit::id, Comparator.reverseOrder());
+        hits.sort(sort == SortOrder.RELEVANCE
+                ? Comparator.comparingInt(Hit::score).reversed().thenComparing(byUpdatedAt)
+                : byUpdatedAt);
+
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        List<Long> ids = hits.subList(from, to).stream().map(Hit::id).toList();
+        return new Page(ids, hits.size());
+    }
+
+    private void awaitFirstBuild() {
+        try {
+            if (built.await(FIRST_BUILD_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Project search index is not ready yet");
+    }
+
+    private List<Hit> matchAll() {
+        List<Hit> hits = new ArrayList<>(entries.size());
+        entries.values().forEach(e -> hits.add(new Hit(e.id(), e.updatedAt(), 0)));
+        return hits;
+    }
+
+    private List<Hit> match(List<String> queryTerms) {
+        Map<Long, Integer> scores = null;
+        for (String term : queryTerms) {
+            Map<Long, Integer> termScores = new HashMap<>();
+            postings.subMap(term, true, term + Character.MAX_VALUE, true).forEach((token, docs) -> {
+                boolean exact = token.equals(term);
+                docs.forEach((id, weight) -> termScores.merge(id, exact ? weight * 2 : weight, Math::max));
+            });
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        List<Hit> hits = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> hits.add(new Hit(id, entries.get(id).updatedAt(), score)));
+        return hits;
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.id(), entry);
+        entry.terms().forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(entry.id(), weight));
+    }
+
+    private void remove(Long projectId) {
+        Entry previous = entries.remove(projectId);
+        if (previous == null) {
+            return;
+        }
+        previous.terms().keySet().forEach(term -> {
+            Map<Long, Integer> docs = postings.get(term);
+            docs.remove(projectId);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private Entry toEntry(Project project) {
+        Map<String, Integer> terms = new HashMap<>();
+        collectMetadata(project.getLastShapesData()).forEach(term -> terms.put(term, METADATA_WEIGHT));
+        tokenize(project.getTitle()).forEach(term -> terms.put(term, TITLE_WEIGHT));
+        return new Entry(project.getId(), project.getUpdatedAt(), terms);
+    }
+
+    private Set<String> collectMetadata(String shapesData) {
+        Set<String> terms = new HashSet<>();
+        if (shapesData == null || shapesData.isBlank()) {
+            return terms;
+        }
+        try {
+            collectMetadata(objectMapper.readTree(shapesData), terms);
+        } catch (JsonProcessingException e) {
+            // Unparseable shapes are still searchable by title
+        }
+        return terms;
+    }
+
+    private void collectMetadata(JsonNode node, Set<String> terms) {
+        if (node.isArray()) {
+            node.forEach(child -> collectMetadata(child, terms));
+        } else if (node.isObject()) {
+            node.fields().forEachRemaining(field -> {
+                if (METADATA_FIELDS.contains(field.getKey()) && field.getValue().isTextual()) {
+                    terms.addAll(tokenize(field.getValue().asText()));
+                } else {
+                    collectMetadata(field.getValue(), terms);
+                }
+            });
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}#]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -2,6 +2,7 @@ package com.merwanel.SVGboard.service;
 
 import com.merwanel.SVGboard.dto.ProjectRequest;
 import com.merwanel.SVGboard.dto.ProjectResponse;
+import com.merwanel.SVGboard.dto.ProjectSearchResponse;
 import com.merwanel.SVGboard.dto.ProjectWithSnapshotsResponse;
 import com.merwanel.SVGboard.dto.SnapshotResponse;
 import com.merwanel.SVGboard.entity.Project;
@@ -12,13 +13,19 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final ProjectRepository projectRepository;
+    private final ProjectSearchIndex projectSearchIndex;
     
     public List<ProjectResponse> getAllProjects() {
         return projectRepository.findAllByOrderByUpdatedAtDesc().stream()
@@ -26,6 +33,23 @@ public class ProjectService {
         .collect(Collectors.toList());
     }
     
+    public ProjectSearchResponse searchProjects(String query, ProjectSearchIndex.SortOrder sort, int page, int size) {
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ProjectSearchIndex.Page result = projectSearchIndex.search(query, sort, safePage, safeSize);
+        
+        Map<Long, Project> found = projectRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        List<ProjectResponse> content = result.ids().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        
+        int totalPages = (int) ((result.totalElements() + safeSize - 1) / safeSize);
+        return new ProjectSearchResponse(content, safePage, safeSize, result.totalElements(), totalPages);
+    }
+    
     private ProjectResponse toResponse(Project project) {
         return new ProjectResponse(
             project.getId(),
@@ -54,6 +78,7 @@ public class ProjectService {
         Project project = new Project();
         project.setTitle(request.title());
         Project saved = projectRepository.save(project);
+        projectSearchIndex.index(saved);
         return toResponse(saved);
     }
     
@@ -63,6 +88,7 @@ public class ProjectService {
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
         project.setTitle(request.title());
         Project updated = projectRepository.save(project);
+        projectSearchIndex.index(updated);
         return toResponse(updated);
     }
     
@@ -72,6 +98,7 @@ public class ProjectService {
             throw new RuntimeException("Project not found with id: " + id);
         }
         projectRepository.deleteById(id);
+        projectSearchIndex.delete(id);
     }
     
     
@@ -0,0 +1,135 @@
+package com.merwanel.SVGboard.service;
+
+import com.merwanel.SVGboard.config.AdmissionControlProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for snapshot writes: a token bucket per project and per
+ * client, then a bounded number of concurrent writes so that a single noisy
+ * board cannot hold every database connection.
+ */
+@Service
+public class SnapshotAdmissionService {
+
+    public record Decision(boolean admitted, long retryAfterSeconds) {
+
+        static final Decision ADMITTED = new Decision(true, 0);
+
+        static Decision rejected(long retryAfterNanos) {
+            long seconds = TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos);
+            if (retryAfterNanos % TimeUnit.SECONDS.toNanos(1) != 0) {
+                seconds++;
+            }
+            return new Decision(false, Math.max(1, seconds));
+        }
+    }
+
+    private final AdmissionControlProperties properties;
+    private final Semaphore writePermits;
+    private final Map<Long, TokenBucket> projectBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+
+    private final Counter rejectedByProject;
+    private final Counter rejectedByClient;
+    private final Counter rejectedByConcurrency;
+    private final Counter queued;
+
+    public SnapshotAdmissionService(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.writePermits = new Semaphore(properties.maxConcurrentWrites(), true);
+
+        this.rejectedByProject = rejectedCounter(meterRegistry, "project");
+        this.rejectedByClient = rejectedCounter(meterRegistry, "client");
+        this.rejectedByConcurrency = rejectedCounter(meterRegistry, "concurrency");
+        this.queued = Counter.builder("svgboard.admission.queued")
+                .description("Snapshot writes that had to wait for a free write slot")
+                .register(meterRegistry);
+        Gauge.builder("svgboard.admission.writes.active", writePermits,
+                        permits -> properties.maxConcurrentWrites() - permits.availablePermits())
+                .description("Snapshot writes currently in flight")
+                .register(meterRegistry);
+        Gauge.builder("svgboard.admission.writes.waiting", writePermits, Semaphore::getQueueLength)
+                .description("Snapshot writes waiting for a free write slot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Decides whether a snapshot write may proceed. An admitted write holds a
+     * write slot that must be handed back with {@link #release()}. The client
+     * bucket is checked first, and tokens taken by a request that a later check
+     * rejects are given back, so a rejected request does not drain any bucket.
+     */
+    public Decision admit(Long projectId, String clientKey) {
+        long now = System.nanoTime();
+
+        TokenBucket clientBucket = bucket(clientBuckets, clientKey, properties.client(), now);
+        long clientWait = clientBucket.tryConsume(now);
+        if (clientWait > 0) {
+            rejectedByClient.increment();
+            return Decision.rejected(clientWait);
+        }
+        TokenBucket projectBucket = bucket(projectBuckets, projectId, properties.project(), now);
+        long projectWait = projectBucket.tryConsume(now);
+        if (projectWait > 0) {
+            clientBucket.refund();
+            rejectedByProject.increment();
+            return Decision.rejected(projectWait);
+        }
+
+        if (acquireWritePermit()) {
+            return Decision.ADMITTED;
+        }
+        clientBucket.refund();
+        projectBucket.refund();
+        rejectedByConcurrency.increment();
+        return Decision.rejected(properties.queueTimeout().toNanos());
+    }
+
+    public void release() {
+        writePermits.release();
+    }
+
+    /**
+     * Drops the buckets that have refilled completely: they hold no state a
+     * fresh bucket would not have.
+     */
+    @Scheduled(fixedDelayString = "${svgboard.admission.bucket-sweep-interval:PT1M}")
+    public void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        projectBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        clientBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private boolean acquireWritePermit() {
+        if (writePermits.tryAcquire()) {
+            return true;
+        }
+        queued.increment();
+        try {
+            return writePermits.tryAcquire(properties.queueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static <K> TokenBucket bucket(Map<K, TokenBucket> buckets, K key, AdmissionControlProperties.Bucket limits, long now) {
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(limits.capacity(), limits.refillPerSecond(), now));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("svgboard.admission.rejected")
+                .description("Snapshot writes rejected with 429")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -18,6 +18,7 @@ public class SnapshotService {
     
     private final SnapshotRepository snapshotRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectSearchIndex projectSearchIndex;
     
     
     private SnapshotResponse toResponse(Snapshot snapshot) {
@@ -59,6 +60,7 @@ public class SnapshotService {
         
         project.setLastShapesData(request.shapesData());
         projectRepository.save(project);
+        projectSearchIndex.index(project);
         
         return toResponse(saved);
     }
@@ -5,6 +5,7 @@ import com.merwanel.SVGboard.entity.Project;
 import com.merwanel.SVGboard.entity.Snapshot;
 import com.merwanel.SVGboard.repository.ProjectRepository;
 import com.merwanel.SVGboard.repository.SnapshotRepository;
+import com.merwanel.SVGboard.service.ProjectSearchIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +33,9 @@ public abstract class BaseControllerTest {
     @Autowired
     protected SnapshotRepository snapshotRepository;
 
+    @Autowired
+    protected ProjectSearchIndex projectSearchIndex;
+
     protected int NB_ENTRIES_PR = 5;
     protected int NB_ENTRIES_SS = 5;
     
@@ -40,6 +44,7 @@ public abstract class BaseControllerTest {
     @BeforeEach
     void setUp() {
         createNBProjectWithSnapshots();
+        projectSearchIndex.rebuild();
     }
 
     @AfterEach
@@ -1,11 +1,15 @@
 package com.merwanel.SVGboard.controller;
 
 import com.merwanel.SVGboard.dto.ProjectRequest;
+import com.merwanel.SVGboard.dto.SnapshotRequest;
 import com.merwanel.SVGboard.entity.Project;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -92,4 +96,114 @@ class ProjectControllerTest extends BaseControllerTest {
             var projects = projectRepository.findAll();
         assertThat(projects).hasSize(NB_ENTRIES_PR -1);
     }
+
+    @Test
+    void shouldSearchProjectsWithPagination() throws Exception {
+        mockMvc.perform(
+            get("/projects/search")
+            .param("q", "project")
+            .param("size", "2")
+            .param("page", "1")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.page").value(1))
+            .andExpect(jsonPath("$.totalElements").value(NB_ENTRIES_PR))
+            .andExpect(jsonPath("$.totalPages").value(3));
+    }
+
+    @Test
+    void shouldSearchProjectsByTitleFirst() throws Exception {
+        mockMvc.perform(
+            post("/projects")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new ProjectRequest("Circle study")))
+        )
+            .andExpect(status().isCreated());
+
+        String shapesData = "[{\"id\":1,\"type\":\"circle\",\"fill\":\"#ff0000\",\"animations\":[{\"type\":\"rotate\"}]}]";
+        mockMvc.perform(
+            post("/projects/{projectId}/snapshots", lastProject.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new SnapshotRequest(shapesData)))
+        )
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(
+            get("/projects/search").param("q", "circ")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content[0].title").value("Circle study"))
+            .andExpect(jsonPath("$.content[1].id").value(lastProject.getId()));
+
+        mockMvc.perform(
+            get("/projects/search").param("q", "rotate #ff0000")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].id").value(lastProject.getId()));
+    }
+
+    @Test
+    void shouldRemoveDeletedProjectFromSearch() throws Exception {
+        mockMvc.perform(
+            delete("/projects/{id}", lastProject.getId())
+        )
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(
+            get("/projects/search").param("q", "4").param("sort", "updatedAt")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void shouldRejectUnknownSearchSort() throws Exception {
+        mockMvc.perform(
+            get("/projects/search").param("sort", "updated_at")
+        )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldPickUpProjectsWrittenOutsideThisInstance() throws Exception {
+        Project external = new Project();
+        external.setTitle("Written elsewhere");
+        projectRepository.save(external);
+        projectRepository.deleteById(lastProject.getId());
+
+        projectSearchIndex.refresh();
+
+        mockMvc.perform(
+            get("/projects/search").param("q", "elsewhere")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1));
+
+        mockMvc.perform(
+            get("/projects/search").param("q", "4")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void shouldPageThroughTiedSearchResultsWithoutDuplicates() throws Exception {
+        Set<Long> seen = new HashSet<>();
+        for (int page = 0; page < 3; page++) {
+            String body = mockMvc.perform(
+                get("/projects/search")
+                .param("q", "project")
+                .param("sort", "updatedAt")
+                .param("size", "2")
+                .param("page", String.valueOf(page))
+            )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+            objectMapper.readTree(body).get("content").forEach(p -> seen.add(p.get("id").asLong()));
+        }
+        assertThat(seen).hasSize(NB_ENTRIES_PR);
+    }
 }
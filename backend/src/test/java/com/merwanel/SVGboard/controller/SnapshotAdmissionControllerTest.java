@@ -0,0 +1,47 @@
+package com.merwanel.SVGboard.controller;
+
+import com.merwanel.SVGboard.dto.SnapshotRequest;
+import com.merwanel.SVGboard.entity.Project;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = "svgboard.admission.client.capacity=2")
+class SnapshotAdmissionControllerTest extends BaseControllerTest {
+
+    @Test
+    void shouldKeyClientBucketOnForwardedAddress() throws Exception {
+        Project other = createProjectWithSnapshots("other", 0);
+        String content = objectMapper.writeValueAsString(new SnapshotRequest("[]"));
+
+        for (Long projectId : new Long[] { lastProject.getId(), other.getId() }) {
+            mockMvc.perform(
+                post("/projects/{projectId}/snapshots", projectId)
+                    .header("X-Forwarded-For", "203.0.113.7")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(content)
+            )
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(
+            post("/projects/{projectId}/snapshots", other.getId())
+                .header("X-Forwarded-For", "203.0.113.7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(content)
+        )
+            .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(
+            post("/projects/{projectId}/snapshots", other.getId())
+                .header("X-Forwarded-For", "198.51.100.9")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(content)
+        )
+            .andExpect(status().isCreated());
+    }
+}
@@ -59,6 +59,34 @@ class SnapshotControllerTest extends BaseControllerTest {
             .andExpect(jsonPath("$.shapesData").value(shapesData));
     }
     
+    @Test
+    void shouldRejectSnapshotFloodWithRetryAfter() throws Exception {
+        String content = objectMapper.writeValueAsString(new SnapshotRequest("[]"));
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(
+                post("/projects/{projectId}/snapshots", lastProject.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(content)
+            )
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(
+            post("/projects/{projectId}/snapshots", lastProject.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(content)
+        )
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "1000"));
+
+        mockMvc.perform(
+            get("/projects/{projectId}/snapshots", lastProject.getId())
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(NB_ENTRIES_SS + 5));
+    }
+    
     @Test
     void shouldDeleteAllSnapshots() throws Exception {
         var snapshotList = snapshotRepository.findByProjectIdOrderByCreatedAtDesc(lastProject.getId());
@@ -0,0 +1,72 @@
+package com.merwanel.SVGboard.service;
+
+import com.merwanel.SVGboard.config.AdmissionControlProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotAdmissionServiceTest {
+
+    private static final AdmissionControlProperties.Bucket ONE_TOKEN = new AdmissionControlProperties.Bucket(1, 0.001);
+
+    private SnapshotAdmissionService service(int maxConcurrentWrites) {
+        var properties = new AdmissionControlProperties(
+            true, ONE_TOKEN, ONE_TOKEN, maxConcurrentWrites, Duration.ZERO, Duration.ofMinutes(1)
+        );
+        return new SnapshotAdmissionService(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldNotUseProjectTokenWhenRejectedByClientBucket() {
+        var service = service(10);
+
+        assertThat(service.admit(1L, "noisy").admitted()).isTrue();
+        assertThat(service.admit(2L, "noisy").admitted()).isFalse();
+
+        assertThat(service.admit(2L, "other").admitted()).isTrue();
+    }
+
+    @Test
+    void shouldGiveTokensBackWhenRejectedForConcurrency() {
+        var service = service(1);
+
+        assertThat(service.admit(1L, "first").admitted()).isTrue();
+        var rejected = service.admit(2L, "second");
+        assertThat(rejected.admitted()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isPositive();
+
+        service.release();
+        assertThat(service.admit(2L, "second").admitted()).isTrue();
+    }
+
+    @Test
+    void shouldRoundRetryAfterUpWithoutOverflow() {
+        assertThat(SnapshotAdmissionService.Decision.rejected(1).retryAfterSeconds()).isEqualTo(1);
+        assertThat(SnapshotAdmissionService.Decision.rejected(2_000_000_000L).retryAfterSeconds()).isEqualTo(2);
+        assertThat(SnapshotAdmissionService.Decision.rejected(2_000_000_001L).retryAfterSeconds()).isEqualTo(3);
+        assertThat(SnapshotAdmissionService.Decision.rejected(Long.MAX_VALUE).retryAfterSeconds())
+            .isEqualTo(TimeUnit.NANOSECONDS.toSeconds(Long.MAX_VALUE) + 1);
+    }
+
+    @EnableConfigurationProperties(AdmissionControlProperties.class)
+    static class PropertiesConfig {}
+
+    @Test
+    void shouldRejectNonPositiveLimits() {
+        var runner = new ApplicationContextRunner().withUserConfiguration(PropertiesConfig.class);
+
+        runner.run(context -> assertThat(context).hasNotFailed());
+        runner.withPropertyValues("svgboard.admission.project.capacity=0")
+            .run(context -> assertThat(context).hasFailed());
+        runner.withPropertyValues("svgboard.admission.client.refill-per-second=0")
+            .run(context -> assertThat(context).hasFailed());
+        runner.withPropertyValues("svgboard.admission.max-concurrent-writes=0")
+            .run(context -> assertThat(context).hasFailed());
+    }
+}
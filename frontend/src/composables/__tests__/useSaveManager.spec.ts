@@ -0,0 +1,63 @@
+import { describe, it, expect, vi, beforeEach, afterEach } from 'vitest'
+import { ref } from 'vue'
+import { AxiosError, type AxiosResponse } from 'axios'
+import { useSaveManager } from '../useSaveManager'
+import { useSnapshots } from '../useSnapshots'
+
+vi.mock('../useSnapshots')
+
+describe('useSaveManager', () => {
+  const createSnapshot = vi.fn()
+
+  const tooManyRequests = (retryAfter: string) =>
+    new AxiosError('Too Many Requests', 'ERR_BAD_REQUEST', undefined, undefined, {
+      status: 429,
+      statusText: 'Too Many Requests',
+      headers: { 'retry-after': retryAfter },
+      data: {},
+      config: {}
+    } as AxiosResponse)
+
+  beforeEach(() => {
+    vi.useFakeTimers()
+    vi.spyOn(console, 'error').mockImplementation(() => {})
+    createSnapshot.mockReset()
+    vi.mocked(useSnapshots).mockReturnValue({
+      createSnapshot,
+      error: ref(null)
+    } as unknown as ReturnType<typeof useSnapshots>)
+  })
+
+  afterEach(() => {
+    vi.useRealTimers()
+    vi.restoreAllMocks()
+  })
+
+  it('retries a rate limited save after Retry-After', async () => {
+    createSnapshot.mockRejectedValueOnce(tooManyRequests('3')).mockResolvedValueOnce({})
+    const { save, hasUnsavedChanges } = useSaveManager(ref(1), ref([]))
+    hasUnsavedChanges.value = true
+
+    await save('auto')
+    expect(createSnapshot).toHaveBeenCalledTimes(1)
+    expect(hasUnsavedChanges.value).toBe(true)
+
+    await vi.advanceTimersByTimeAsync(2999)
+    expect(createSnapshot).toHaveBeenCalledTimes(1)
+
+    await vi.advanceTimersByTimeAsync(1)
+    expect(createSnapshot).toHaveBeenCalledTimes(2)
+    expect(hasUnsavedChanges.value).toBe(false)
+  })
+
+  it('does not retry other failures', async () => {
+    createSnapshot.mockRejectedValueOnce(new Error('Network Error'))
+    const { save, hasUnsavedChanges } = useSaveManager(ref(1), ref([]))
+    hasUnsavedChanges.value = true
+
+    await save('auto')
+    await vi.advanceTimersByTimeAsync(10000)
+
+    expect(createSnapshot).toHaveBeenCalledTimes(1)
+  })
+})
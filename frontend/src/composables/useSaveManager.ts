@@ -1,4 +1,5 @@
 import { ref, computed, watch, type Ref } from 'vue'
+import { isAxiosError } from 'axios'
 import { useSnapshots } from './useSnapshots'
 import type { Shape } from '@/types/shapes'
 
@@ -12,19 +13,31 @@ export function useSaveManager(projectId: Ref<number | null>, shapes: Ref<Shape[
   
   let autoSaveTimeout: ReturnType<typeof setTimeout> | null = null
 
+  const scheduleSave = (type: 'manual' | 'auto', delay: number) => {
+    if (autoSaveTimeout) {
+      clearTimeout(autoSaveTimeout)
+    }
+    autoSaveTimeout = setTimeout(async () => {
+      if (hasUnsavedChanges.value && projectId.value && !isSaving.value) {
+        await save(type)
+      }
+    }, delay)
+  }
+
+  // The server answers 429 with Retry-After (in seconds) when saves come too fast
+  const retryDelay = (err: unknown): number | null => {
+    if (!isAxiosError(err) || err.response?.status !== 429) {
+      return null
+    }
+    const seconds = Number(err.response.headers['retry-after'])
+    return Number.isFinite(seconds) && seconds > 0 ? seconds * 1000 : 2000
+  }
+
   watch(shapes, () => {
     hasUnsavedChanges.value = true
     
     if (autoSaveEnabled.value && projectId.value && !isSaving.value) {
-      if (autoSaveTimeout) {
-        clearTimeout(autoSaveTimeout)
-      }
-      
-      autoSaveTimeout = setTimeout(async () => {
-        if (hasUnsavedChanges.value && projectId.value && !isSaving.value) {
-          await save('auto')
-        }
-      }, 2000)
+      scheduleSave('auto', 2000)
     }
   }, { deep: true })
 
@@ -41,6 +54,10 @@ export function useSaveManager(projectId: Ref<number | null>, shapes: Ref<Shape[
       lastSaveType.value = type
     } catch (err) {
       console.error('Save failed:', err)
+      const delay = retryDelay(err)
+      if (delay !== null) {
+        scheduleSave(type, delay)
+      }
     } finally {
       isSaving.value = false
     }
@@ -50,14 +67,7 @@ export function useSaveManager(projectId: Ref<number | null>, shapes: Ref<Shape[
     autoSaveEnabled.value = !autoSaveEnabled.value
     
     if (autoSaveEnabled.value && hasUnsavedChanges.value && projectId.value && !isSaving.value) {
-      if (autoSaveTimeout) {
-        clearTimeout(autoSaveTimeout)
-      }
-      autoSaveTimeout = setTimeout(async () => {
-        if (hasUnsavedChanges.value && projectId.value && !isSaving.value) {
-          await save('auto')
-        }
-      }, 2000)
+      scheduleSave('auto', 2000)
     } else if (!autoSaveEnabled.value && autoSaveTimeout) {
       clearTimeout(autoSaveTimeout)
       autoSaveTimeout = null